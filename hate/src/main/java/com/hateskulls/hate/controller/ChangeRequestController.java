@@ -2,6 +2,7 @@ package com.hateskulls.hate.controller;
 
 import com.hateskulls.hate.model.ChangeRequest;
 import com.hateskulls.hate.repository.ChangeRequestRepository;
+import com.hateskulls.hate.service.ChangeRequestQueryCache;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
@@ -13,6 +14,7 @@ import org.springframework.hateoas.PagedModel;
 import org.springframework.hateoas.server.mvc.WebMvcLinkBuilder;
 import org.springframework.hateoas.Affordance;
 import org.springframework.hateoas.IanaLinkRelations;
+import org.springframework.hateoas.Link;
 import org.springframework.http.HttpMethod;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
@@ -33,6 +35,9 @@ public class ChangeRequestController {
     @Autowired
     private PagedResourcesAssembler<ChangeRequest> pagedResourcesAssembler;
     
+    @Autowired
+    private ChangeRequestQueryCache queryCache;
+    
     // GET /change-requests
     @GetMapping
     public PagedModel<EntityModel<ChangeRequest>> getAllChangeRequests(
@@ -42,6 +47,24 @@ public class ChangeRequestController {
             @RequestParam(defaultValue = "desc") String sortDir,
             @RequestParam(required = false) ChangeRequest.Status status) {
         
+        // Identical concurrent requests share one computation (and a short-lived cached result when enabled)
+        ChangeRequestQueryCache.Key key = ChangeRequestQueryCache.Key.of(
+            linkTo(ChangeRequestController.class).toUri().toString(), page, size, sortBy, sortDir, status);
+        return queryCache.get(key, () -> buildChangeRequestPage(page, size, sortBy, key.sortDir(), status));
+    }
+    
+    // GET /change-requests/query-stats (operational, deliberately not linked from the API)
+    @GetMapping("/query-stats")
+    public EntityModel<ChangeRequestQueryCache.Stats> getQueryStats() {
+        return EntityModel.of(queryCache.getStats())
+            .add(linkTo(methodOn(ChangeRequestController.class).getQueryStats()).withSelfRel())
+            .add(linkTo(methodOn(ChangeRequestController.class)
+                .getAllChangeRequests(0, 10, "id", "desc", null)).withRel("all-change-requests"));
+    }
+    
+    private PagedModel<EntityModel<ChangeRequest>> buildChangeRequestPage(
+            int page, int size, String sortBy, String sortDir, ChangeRequest.Status status) {
+        
         Sort sort = sortDir.equalsIgnoreCase("desc") ? 
             Sort.by(sortBy).descending() : Sort.by(sortBy).ascending();
         
@@ -54,11 +77,10 @@ public class ChangeRequestController {
             changeRequests = repository.findAll(pageable);
         }
         
-        PagedModel<EntityModel<ChangeRequest>> pagedModel = pagedResourcesAssembler.toModel(changeRequests, this::toEntityModel);
-        
-        // Add HATEOAS links to the collection
-        pagedModel.add(linkTo(methodOn(ChangeRequestController.class)
-            .getAllChangeRequests(page, size, sortBy, sortDir, status)).withSelfRel());
+        // Self and paging links are built from the normalized parameters, not the raw request URL, since the result is shared
+        Link selfLink = linkTo(methodOn(ChangeRequestController.class)
+            .getAllChangeRequests(page, size, sortBy, sortDir, status)).withSelfRel();
+        PagedModel<EntityModel<ChangeRequest>> pagedModel = pagedResourcesAssembler.toModel(changeRequests, this::toEntityModel, selfLink);
         
         // Add CREATE affordance with form template - this is the key HAL-FORMS feature!
         Affordance createAffordance = afford(methodOn(ChangeRequestController.class)
@@ -66,6 +88,10 @@ public class ChangeRequestController {
         pagedModel.add(linkTo(ChangeRequestController.class).withRel("create")
             .andAffordance(createAffordance));
         
+        // Bulk import accepts streamed text/csv or application/x-ndjson uploads
+        pagedModel.add(ChangeRequestImportController.withUploadAffordances(
+            linkTo(methodOn(ChangeRequestImportController.class).getImportJobs()).withRel("import")));
+        
         // Add search/filter links for available statuses
         pagedModel.add(linkTo(methodOn(ChangeRequestController.class)
             .getAllChangeRequests(page, size, sortBy, sortDir, ChangeRequest.Status.PENDING))
@@ -96,6 +122,7 @@ public class ChangeRequestController {
     @PostMapping
     public EntityModel<ChangeRequest> createChangeRequest(@Valid @RequestBody ChangeRequest changeRequest) {
         ChangeRequest saved = repository.save(changeRequest);
+        queryCache.invalidate();
         return toEntityModel(saved);
     }
     
@@ -110,6 +137,7 @@ public class ChangeRequestController {
         
         changeRequest.setId(id);
         ChangeRequest updated = repository.save(changeRequest);
+        queryCache.invalidate();
         return ResponseEntity.ok(toEntityModel(updated));
     }
     
@@ -121,6 +149,7 @@ public class ChangeRequestController {
         }
         
         repository.deleteById(id);
+        queryCache.invalidate();
         return ResponseEntity.noContent().build();
     }
     
@@ -0,0 +1,109 @@
+package com.hateskulls.hate.controller;
+
+import com.hateskulls.hate.model.ImportJob;
+import com.hateskulls.hate.service.ChangeRequestImportService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.hateoas.CollectionModel;
+import org.springframework.hateoas.EntityModel;
+import org.springframework.hateoas.IanaLinkRelations;
+import org.springframework.hateoas.Link;
+import org.springframework.hateoas.mediatype.Affordances;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static org.springframework.hateoas.server.mvc.WebMvcLinkBuilder.*;
+
+@RestController
+@RequestMapping("/change-requests/imports")
+public class ChangeRequestImportController {
+
+    static final String TEXT_CSV_VALUE = "text/csv";
+
+    @Autowired
+    private ChangeRequestImportService importService;
+
+    // GET /change-requests/imports
+    @GetMapping
+    public CollectionModel<EntityModel<ImportJob>> getImportJobs() {
+        List<EntityModel<ImportJob>> jobs = importService.findRecentJobs().stream()
+            .map(this::toEntityModel)
+            .toList();
+
+        return CollectionModel.of(jobs)
+            .add(withUploadAffordances(linkTo(methodOn(ChangeRequestImportController.class)
+                .getImportJobs()).withSelfRel()))
+            .add(linkTo(methodOn(ChangeRequestController.class)
+                .getAllChangeRequests(0, 10, "id", "desc", null)).withRel("all-change-requests"));
+    }
+
+    // POST /change-requests/imports (CSV with a header row)
+    @PostMapping(consumes = TEXT_CSV_VALUE)
+    public ResponseEntity<EntityModel<ImportJob>> importCsv(
+            @RequestHeader(HttpHeaders.CONTENT_TYPE) MediaType contentType, InputStream body) throws IOException {
+        return accepted(importService.submit(ImportJob.Format.CSV, charsetOf(contentType), body));
+    }
+
+    // POST /change-requests/imports (one JSON change request per line)
+    @PostMapping(consumes = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<EntityModel<ImportJob>> importNdjson(
+            @RequestHeader(HttpHeaders.CONTENT_TYPE) MediaType contentType, InputStream body) throws IOException {
+        return accepted(importService.submit(ImportJob.Format.NDJSON, charsetOf(contentType), body));
+    }
+
+    // GET /change-requests/imports/{jobId}
+    @GetMapping("/{jobId}")
+    public ResponseEntity<EntityModel<ImportJob>> getImportJob(@PathVariable String jobId) {
+        return importService.findJob(jobId)
+            .map(job -> ResponseEntity.ok(toEntityModel(job)))
+            .orElse(ResponseEntity.notFound().build());
+    }
+
+    // Uploads are raw request bodies, so the templates carry a content type but no properties
+    static Link withUploadAffordances(Link link) {
+        return Affordances.of(link)
+            .afford(HttpMethod.POST)
+            .withInputMediaType(MediaType.parseMediaType(TEXT_CSV_VALUE))
+            .withName("importCsv")
+            .andAfford(HttpMethod.POST)
+            .withInputMediaType(MediaType.APPLICATION_NDJSON)
+            .withName("importNdjson")
+            .toLink();
+    }
+
+    // Legacy exports are often not UTF-8, so honour the declared charset
+    private static Charset charsetOf(MediaType contentType) {
+        try {
+            Charset charset = contentType.getCharset();
+            return charset != null ? charset : StandardCharsets.UTF_8;
+        } catch (IllegalArgumentException e) {
+            throw new ResponseStatusException(HttpStatus.UNSUPPORTED_MEDIA_TYPE, "Unsupported charset", e);
+        }
+    }
+
+    private ResponseEntity<EntityModel<ImportJob>> accepted(ImportJob job) {
+        EntityModel<ImportJob> model = toEntityModel(job);
+        return ResponseEntity.accepted()
+            .location(model.getRequiredLink(IanaLinkRelations.SELF).toUri())
+            .body(model);
+    }
+
+    // Helper method to add HATEOAS links to an import job
+    private EntityModel<ImportJob> toEntityModel(ImportJob job) {
+        return EntityModel.of(job)
+            .add(linkTo(methodOn(ChangeRequestImportController.class)
+                .getImportJob(job.getId())).withSelfRel())
+            .add(linkTo(methodOn(ChangeRequestController.class)
+                .getAllChangeRequests(0, 10, "id", "desc", null)).withRel("all-change-requests"));
+    }
+}
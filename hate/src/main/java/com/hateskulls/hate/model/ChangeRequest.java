@@ -10,7 +10,8 @@ import java.time.LocalDateTime;
 public class ChangeRequest {
     
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "change_request_seq")
+    @SequenceGenerator(name = "change_request_seq", sequenceName = "change_request_seq", allocationSize = 500) // Pooled ids keep JDBC batching enabled, one sequence call per import batch
     private Long id;
     
     @Column(nullable = false)
@@ -0,0 +1,117 @@
+package com.hateskulls.hate.model;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+
+// In-memory progress record for a bulk change request import
+public class ImportJob {
+
+    private final String id = UUID.randomUUID().toString();
+    private final Format format;
+    private volatile Status status = Status.QUEUED;
+
+    private final AtomicLong rowsProcessed = new AtomicLong();
+    private final AtomicLong rowsImported = new AtomicLong();
+    private final AtomicLong rowsFailed = new AtomicLong();
+
+    // Only the first errors are kept, the rest are just counted in rowsFailed
+    private final List<RowError> errors = new ArrayList<>();
+    private volatile boolean errorsTruncated;
+    private volatile String failureReason;
+
+    private final LocalDateTime createdAt = LocalDateTime.now();
+    private volatile LocalDateTime startedAt;
+    private volatile LocalDateTime completedAt;
+
+    public ImportJob(Format format) {
+        this.format = format;
+    }
+
+    // State transitions
+    public void start() {
+        this.startedAt = LocalDateTime.now();
+        this.status = Status.RUNNING;
+    }
+
+    public void complete() {
+        this.completedAt = LocalDateTime.now();
+        this.status = Status.COMPLETED;
+    }
+
+    public void fail(String reason) {
+        this.failureReason = reason;
+        this.completedAt = LocalDateTime.now();
+        this.status = Status.FAILED;
+    }
+
+    // Progress updates
+    public void rowProcessed() {
+        rowsProcessed.incrementAndGet();
+    }
+
+    public void rowsImported(int count) {
+        rowsImported.addAndGet(count);
+    }
+
+    // Rows that passed validation but were lost when the job failed before saving them
+    public void rowsAbandoned(int count) {
+        rowsFailed.addAndGet(count);
+    }
+
+    public void rowFailed(long row, List<String> messages, int maxReportedErrors) {
+        rowsFailed.incrementAndGet();
+        synchronized (errors) {
+            if (errors.size() < maxReportedErrors) {
+                errors.add(new RowError(row, messages));
+            } else {
+                errorsTruncated = true;
+            }
+        }
+    }
+
+    // Getters
+    public String getId() { return id; }
+
+    public Format getFormat() { return format; }
+
+    public Status getStatus() { return status; }
+
+    public long getRowsProcessed() { return rowsProcessed.get(); }
+
+    public long getRowsImported() { return rowsImported.get(); }
+
+    public long getRowsFailed() { return rowsFailed.get(); }
+
+    public List<RowError> getErrors() {
+        synchronized (errors) {
+            return List.copyOf(errors);
+        }
+    }
+
+    public boolean isErrorsTruncated() { return errorsTruncated; }
+
+    public String getFailureReason() { return failureReason; }
+
+    public LocalDateTime getCreatedAt() { return createdAt; }
+
+    public LocalDateTime getStartedAt() { return startedAt; }
+
+    public LocalDateTime getCompletedAt() { return completedAt; }
+
+    public boolean isFinished() {
+        return status == Status.COMPLETED || status == Status.FAILED;
+    }
+
+    public record RowError(long row, List<String> messages) {}
+
+    public enum Format {
+        CSV, NDJSON
+    }
+
+    public enum Status {
+        QUEUED, RUNNING, COMPLETED, FAILED
+    }
+}
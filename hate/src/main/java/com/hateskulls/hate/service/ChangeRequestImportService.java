@@ -0,0 +1,340 @@
+package com.hateskulls.hate.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.hateskulls.hate.model.ChangeRequest;
+import com.hateskulls.hate.model.ImportJob;
+import com.hateskulls.hate.repository.ChangeRequestRepository;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.stereotype.Service;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.charset.Charset;
+import java.nio.charset.CharsetDecoder;
+import java.nio.charset.CoderResult;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+@Service
+public class ChangeRequestImportService {
+
+    private static final Logger log = LoggerFactory.getLogger(ChangeRequestImportService.class);
+
+    @Autowired
+    private ChangeRequestRepository repository;
+
+    @Autowired
+    private ChangeRequestQueryCache queryCache;
+
+    @Autowired
+    private Validator validator;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    @Qualifier("applicationTaskExecutor")
+    private TaskExecutor taskExecutor;
+
+    @Value("${hate.import.batch-size:500}")
+    private int batchSize;
+
+    @Value("${hate.import.max-reported-errors:1000}")
+    private int maxReportedErrors;
+
+    @Value("${hate.import.max-upload-bytes:104857600}")
+    private long maxUploadBytes;
+
+    @Value("${hate.import.max-retained-jobs:100}")
+    private int maxRetainedJobs;
+
+    // Most recent jobs only, oldest finished ones are dropped first
+    private final Map<String, ImportJob> jobs = new LinkedHashMap<>();
+
+    // Spools the upload to disk so the request can return straight away, then imports in the background
+    public ImportJob submit(ImportJob.Format format, Charset charset, InputStream body) throws IOException {
+        Path spool = Files.createTempFile("change-request-import-", "." + format.name().toLowerCase(Locale.ROOT));
+        try {
+            spoolUpload(body, spool);
+        } catch (IOException | RuntimeException e) {
+            Files.deleteIfExists(spool);
+            throw e;
+        }
+
+        ImportJob job = new ImportJob(format);
+        register(job);
+        try {
+            taskExecutor.execute(() -> run(job, charset, spool));
+        } catch (TaskRejectedException e) {
+            // Never started, so don't leave a QUEUED job behind that can't be evicted
+            synchronized (jobs) {
+                jobs.remove(job.getId());
+            }
+            Files.deleteIfExists(spool);
+            throw e;
+        }
+        return job;
+    }
+
+    public Optional<ImportJob> findJob(String id) {
+        synchronized (jobs) {
+            return Optional.ofNullable(jobs.get(id));
+        }
+    }
+
+    // Newest first
+    public List<ImportJob> findRecentJobs() {
+        synchronized (jobs) {
+            List<ImportJob> recent = new ArrayList<>(jobs.values());
+            Collections.reverse(recent);
+            return recent;
+        }
+    }
+
+    // Copies the body while counting bytes, the request has no Content-Length guarantee
+    private void spoolUpload(InputStream body, Path spool) throws IOException {
+        try (OutputStream out = Files.newOutputStream(spool)) {
+            byte[] buffer = new byte[8192];
+            long total = 0;
+            int read;
+            while ((read = body.read(buffer)) != -1) {
+                total += read;
+                if (total > maxUploadBytes) {
+                    throw new ImportTooLargeException(maxUploadBytes);
+                }
+                out.write(buffer, 0, read);
+            }
+        }
+    }
+
+    private void register(ImportJob job) {
+        synchronized (jobs) {
+            jobs.put(job.getId(), job);
+            if (jobs.size() > maxRetainedJobs) {
+                jobs.values().stream()
+                    .filter(ImportJob::isFinished)
+                    .findFirst()
+                    .ifPresent(oldest -> jobs.remove(oldest.getId()));
+            }
+        }
+    }
+
+    // Parsing, validation and batch inserts share one streaming loop: memory stays at one batch and failure counts stay exact
+    private void run(ImportJob job, Charset charset, Path spool) {
+        job.start();
+        try {
+            // Checked up front so a bad byte can't fail the job after earlier batches committed
+            checkEncoding(spool, charset);
+        } catch (IOException e) {
+            job.fail(e.getMessage());
+            deleteSpool(spool);
+            return;
+        }
+
+        List<ChangeRequest> batch = new ArrayList<>(batchSize);
+        try (BufferedReader reader = Files.newBufferedReader(spool, charset)) {
+            if (job.getFormat() == ImportJob.Format.CSV) {
+                importCsv(job, reader, batch);
+            } else {
+                importNdjson(job, reader, batch);
+            }
+            flush(job, batch);
+            job.complete();
+        } catch (Throwable e) {
+            log.error("Import job {} failed", job.getId(), e);
+            // Rows still waiting in the batch were never saved
+            job.rowsAbandoned(batch.size());
+            job.fail(e.getMessage() != null ? e.getMessage() : e.getClass().getName());
+            if (e instanceof Error error) {
+                throw error;
+            }
+        } finally {
+            deleteSpool(spool);
+        }
+    }
+
+    // Decodes the whole file once, reporting the line of the first byte sequence the charset can't decode
+    private static void checkEncoding(Path spool, Charset charset) throws IOException {
+        CharsetDecoder decoder = charset.newDecoder(); // Reports malformed and unmappable input by default
+        ByteBuffer in = ByteBuffer.allocate(8192);
+        CharBuffer out = CharBuffer.allocate(8192);
+        long line = 1;
+
+        try (ReadableByteChannel channel = Files.newByteChannel(spool)) {
+            boolean endOfInput = false;
+            while (true) {
+                if (!endOfInput) {
+                    endOfInput = channel.read(in) == -1;
+                }
+                in.flip();
+                CoderResult result = decoder.decode(in, out, endOfInput);
+                line += countLineBreaks(out);
+                if (result.isError()) {
+                    throw new IOException("Upload is not valid " + charset.name() + ": undecodable bytes on line " + line);
+                }
+                in.compact();
+                if (endOfInput && result.isUnderflow()) {
+                    break;
+                }
+            }
+        }
+    }
+
+    private static long countLineBreaks(CharBuffer out) {
+        out.flip();
+        long count = 0;
+        while (out.hasRemaining()) {
+            if (out.get() == '\n') {
+                count++;
+            }
+        }
+        out.clear();
+        return count;
+    }
+
+    private static void deleteSpool(Path spool) {
+        try {
+            Files.deleteIfExists(spool);
+        } catch (IOException ignored) {
+            // Temp file is cleaned up by the OS eventually
+        }
+    }
+
+    // Row numbers reported in errors are 1-based physical line numbers in the uploaded file, for both formats
+    // Header row is required (line 1), columns are matched by name and may appear in any order
+    private void importCsv(ImportJob job, BufferedReader reader, List<ChangeRequest> batch) throws IOException {
+        CsvReader csv = new CsvReader(reader);
+        List<String> header = csv.readRecord();
+        if (header == null) {
+            return;
+        }
+
+        Map<String, Integer> columns = new HashMap<>();
+        for (int i = 0; i < header.size(); i++) {
+            columns.put(normalizeColumn(header.get(i)), i);
+        }
+
+        List<String> record;
+        while ((record = csv.readRecord()) != null) {
+            if (record.size() == 1 && record.get(0).isBlank()) {
+                continue;
+            }
+            long row = csv.getRecordLine();
+
+            ChangeRequest changeRequest = new ChangeRequest(
+                column(record, columns, "title"),
+                column(record, columns, "description"),
+                column(record, columns, "requestedby"));
+
+            String status = column(record, columns, "status");
+            if (status != null && !status.isBlank()) {
+                try {
+                    changeRequest.setStatus(ChangeRequest.Status.valueOf(status.trim().toUpperCase(Locale.ROOT)));
+                } catch (IllegalArgumentException e) {
+                    rejectRow(job, row, List.of("Unknown status '" + status + "'"));
+                    continue;
+                }
+            }
+
+            acceptRow(job, row, changeRequest, batch);
+        }
+    }
+
+    // One JSON object per line, using the same field names as POST /change-requests
+    private void importNdjson(ImportJob job, BufferedReader reader, List<ChangeRequest> batch) throws IOException {
+        long row = 0;
+        String line;
+        while ((line = reader.readLine()) != null) {
+            row++;
+            if (line.isBlank()) {
+                continue;
+            }
+
+            ChangeRequest changeRequest;
+            try {
+                JsonNode node = objectMapper.readTree(line);
+                if (node == null || !node.isObject()) {
+                    rejectRow(job, row, List.of("Expected a JSON object"));
+                    continue;
+                }
+                changeRequest = objectMapper.treeToValue(node, ChangeRequest.class);
+            } catch (JsonProcessingException e) {
+                rejectRow(job, row, List.of("Malformed JSON: " + e.getOriginalMessage()));
+                continue;
+            }
+            changeRequest.setId(null); // Imports always create new change requests
+
+            acceptRow(job, row, changeRequest, batch);
+        }
+    }
+
+    private void acceptRow(ImportJob job, long row, ChangeRequest changeRequest, List<ChangeRequest> batch) {
+        Set<ConstraintViolation<ChangeRequest>> violations = validator.validate(changeRequest);
+        if (!violations.isEmpty()) {
+            rejectRow(job, row, violations.stream()
+                .map(ConstraintViolation::getMessage)
+                .sorted()
+                .toList());
+            return;
+        }
+
+        job.rowProcessed();
+        batch.add(changeRequest);
+        if (batch.size() >= batchSize) {
+            flush(job, batch);
+        }
+    }
+
+    private void rejectRow(ImportJob job, long row, List<String> messages) {
+        job.rowProcessed();
+        job.rowFailed(row, messages, maxReportedErrors);
+    }
+
+    // Each batch is its own transaction so the persistence context never grows past one batch
+    private void flush(ImportJob job, List<ChangeRequest> batch) {
+        if (batch.isEmpty()) {
+            return;
+        }
+        repository.saveAll(batch);
+        queryCache.invalidate();
+        job.rowsImported(batch.size());
+        batch.clear();
+    }
+
+    private static String column(List<String> record, Map<String, Integer> columns, String name) {
+        Integer index = columns.get(name);
+        if (index == null || index >= record.size()) {
+            return null;
+        }
+        return record.get(index);
+    }
+
+    // "Requested By", "requested_by" and "requestedBy" all map to the same column
+    private static String normalizeColumn(String name) {
+        return name.replaceAll("[\\s_\\-\\uFEFF]", "").toLowerCase(Locale.ROOT);
+    }
+}
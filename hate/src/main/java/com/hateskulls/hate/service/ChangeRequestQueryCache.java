@@ -0,0 +1,131 @@
+package com.hateskulls.hate.service;
+
+import com.hateskulls.hate.model.ChangeRequest;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.hateoas.EntityModel;
+import org.springframework.hateoas.PagedModel;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+// Single-flight coalescing plus an optional short-lived cache for GET /change-requests pages
+@Component
+public class ChangeRequestQueryCache {
+
+    private final long ttlMillis;
+    private final int maxEntries;
+
+    // Identical concurrent queries wait on the first caller's computation
+    private final ConcurrentHashMap<Key, CompletableFuture<PagedModel<EntityModel<ChangeRequest>>>> inFlight = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<Key, Entry> cache = new ConcurrentHashMap<>();
+
+    // Bumped on every write so results computed before it are never cached
+    private final AtomicLong generation = new AtomicLong();
+
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong coalesced = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+    private final AtomicLong invalidations = new AtomicLong();
+
+    public ChangeRequestQueryCache(
+            @Value("${hate.query-cache.ttl-millis:0}") long ttlMillis,
+            @Value("${hate.query-cache.max-entries:1000}") int maxEntries) {
+        this.ttlMillis = ttlMillis;
+        this.maxEntries = maxEntries;
+    }
+
+    public PagedModel<EntityModel<ChangeRequest>> get(Key key, Supplier<PagedModel<EntityModel<ChangeRequest>>> loader) {
+        if (ttlMillis > 0) {
+            Entry entry = cache.get(key);
+            if (entry != null && entry.expiresAt() > System.currentTimeMillis()) {
+                hits.incrementAndGet();
+                return entry.value();
+            }
+        }
+
+        CompletableFuture<PagedModel<EntityModel<ChangeRequest>>> flight = new CompletableFuture<>();
+        CompletableFuture<PagedModel<EntityModel<ChangeRequest>>> existing = inFlight.putIfAbsent(key, flight);
+        if (existing != null) {
+            coalesced.incrementAndGet();
+            return await(existing);
+        }
+
+        misses.incrementAndGet();
+        long startGeneration = generation.get();
+        try {
+            PagedModel<EntityModel<ChangeRequest>> value = loader.get();
+            if (ttlMillis > 0) {
+                store(key, value, startGeneration);
+            }
+            flight.complete(value);
+            return value;
+        } catch (RuntimeException | Error e) {
+            flight.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, flight);
+        }
+    }
+
+    // Called after any write to change requests
+    public void invalidate() {
+        generation.incrementAndGet();
+        invalidations.incrementAndGet();
+        // Detach running computations too, so requests arriving after the write start a fresh query
+        inFlight.clear();
+        cache.clear();
+    }
+
+    public Stats getStats() {
+        return new Stats(hits.get(), coalesced.get(), misses.get(), invalidations.get(), cache.size(), ttlMillis);
+    }
+
+    private void store(Key key, PagedModel<EntityModel<ChangeRequest>> value, long startGeneration) {
+        long now = System.currentTimeMillis();
+        if (cache.size() >= maxEntries) {
+            cache.values().removeIf(entry -> entry.expiresAt() <= now);
+            if (cache.size() >= maxEntries) {
+                cache.clear();
+            }
+        }
+
+        Entry entry = new Entry(value, now + ttlMillis);
+        cache.put(key, entry);
+        // A write may have landed while the query ran, drop the result if so
+        if (generation.get() != startGeneration) {
+            cache.remove(key, entry);
+        }
+    }
+
+    private static PagedModel<EntityModel<ChangeRequest>> await(CompletableFuture<PagedModel<EntityModel<ChangeRequest>>> flight) {
+        try {
+            return flight.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            if (e.getCause() instanceof Error error) {
+                throw error;
+            }
+            throw e;
+        }
+    }
+
+    // Normalized query; baseUri is included because the cached links are absolute
+    public record Key(String baseUri, int page, int size, String sortBy, String sortDir, ChangeRequest.Status status) {
+
+        public static Key of(String baseUri, int page, int size, String sortBy, String sortDir, ChangeRequest.Status status) {
+            // Anything other than "desc" sorts ascending, same as the controller
+            String direction = sortDir.equalsIgnoreCase("desc") ? "desc" : "asc";
+            return new Key(baseUri, page, size, sortBy, direction, status);
+        }
+    }
+
+    public record Stats(long hits, long coalesced, long misses, long invalidations, int cachedEntries, long ttlMillis) {}
+
+    private record Entry(PagedModel<EntityModel<ChangeRequest>> value, long expiresAt) {}
+}
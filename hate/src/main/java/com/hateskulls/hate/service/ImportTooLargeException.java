@@ -0,0 +1,13 @@
+package com.hateskulls.hate.service;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+// Raw upload bodies don't go through Spring's multipart limits, so the import enforces its own
+@ResponseStatus(HttpStatus.PAYLOAD_TOO_LARGE)
+public class ImportTooLargeException extends RuntimeException {
+
+    public ImportTooLargeException(long maxUploadBytes) {
+        super("Import upload exceeds " + maxUploadBytes + " bytes");
+    }
+}
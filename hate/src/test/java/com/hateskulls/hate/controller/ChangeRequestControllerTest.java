@@ -3,10 +3,12 @@ package com.hateskulls.hate.controller;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.hateskulls.hate.model.ChangeRequest;
 import com.hateskulls.hate.repository.ChangeRequestRepository;
+import com.hateskulls.hate.service.ChangeRequestQueryCache;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.context.annotation.Import;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
@@ -18,12 +20,16 @@ import java.time.LocalDateTime;
 import java.util.Arrays;
 import java.util.Optional;
 
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.greaterThanOrEqualTo;
+import static org.hamcrest.Matchers.not;
 import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.Mockito.*;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
 @WebMvcTest(ChangeRequestController.class)
+@Import(ChangeRequestQueryCache.class)
 class ChangeRequestControllerTest {
 
     @Autowired
@@ -35,6 +41,9 @@ class ChangeRequestControllerTest {
     @Autowired
     private ObjectMapper objectMapper;
 
+    @Autowired
+    private ChangeRequestQueryCache queryCache;
+
     private ChangeRequest sampleChangeRequest;
 
     @BeforeEach
@@ -60,6 +69,76 @@ class ChangeRequestControllerTest {
         verify(repository).findAll(any(PageRequest.class));
     }
 
+    @Test
+    void getQueryStats_ReturnsCounters() throws Exception {
+        // Given
+        Page<ChangeRequest> page = new PageImpl<>(Arrays.asList(sampleChangeRequest));
+
+        when(repository.findAll(any(PageRequest.class))).thenReturn(page);
+
+        mockMvc.perform(get("/change-requests"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$._links.query-stats").doesNotExist())
+                .andExpect(jsonPath("$._links.import.href").value(containsString("/change-requests/imports")));
+
+        // When & Then
+        mockMvc.perform(get("/change-requests/query-stats"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.misses").value(greaterThanOrEqualTo(1)))
+                .andExpect(jsonPath("$.hits").value(0))
+                .andExpect(jsonPath("$.ttlMillis").value(0))
+                .andExpect(jsonPath("$._links.self.href").exists());
+    }
+
+    @Test
+    void getAllChangeRequests_PagingLinksUseNormalizedParameters() throws Exception {
+        // Given
+        Page<ChangeRequest> page = new PageImpl<>(Arrays.asList(sampleChangeRequest), PageRequest.of(0, 1), 3);
+
+        when(repository.findAll(any(PageRequest.class))).thenReturn(page);
+
+        // When & Then - raw casing and extra parameters must not leak into a shared response
+        mockMvc.perform(get("/change-requests")
+                .param("size", "1")
+                .param("sortDir", "DESC")
+                .param("_", "1700000000000"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$._links.next.href").value(containsString("sortDir=desc")))
+                .andExpect(jsonPath("$._links.next.href").value(not(containsString("_="))))
+                .andExpect(jsonPath("$._links.next.href").value(not(containsString("DESC"))));
+    }
+
+    @Test
+    void writes_InvalidateQueryCache() throws Exception {
+        // Given
+        ChangeRequest request = new ChangeRequest("New feature", "Add dark mode", "jane.doe");
+        request.setId(1L);
+
+        when(repository.save(any(ChangeRequest.class))).thenReturn(request);
+        when(repository.existsById(1L)).thenReturn(true);
+        when(repository.existsById(999L)).thenReturn(false);
+        long invalidationsBefore = queryCache.getStats().invalidations();
+
+        // When
+        mockMvc.perform(post("/change-requests")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isOk());
+        mockMvc.perform(put("/change-requests/1")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isOk());
+        mockMvc.perform(delete("/change-requests/1"))
+                .andExpect(status().isNoContent());
+        mockMvc.perform(delete("/change-requests/999"))
+                .andExpect(status().isNotFound());
+
+        // Then - one invalidation per successful write, none for the 404
+        mockMvc.perform(get("/change-requests/query-stats"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.invalidations").value((int) invalidationsBefore + 3));
+    }
+
     @Test
     void getChangeRequest_WhenExists_ReturnsChangeRequest() throws Exception {
         // Given
@@ -0,0 +1,157 @@
+package com.hateskulls.hate.controller;
+
+import com.hateskulls.hate.model.ImportJob;
+import com.hateskulls.hate.service.ChangeRequestImportService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.hateoas.MediaTypes;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.io.InputStream;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Optional;
+
+import static org.hamcrest.Matchers.containsString;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@WebMvcTest(ChangeRequestImportController.class)
+class ChangeRequestImportControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockitoBean
+    private ChangeRequestImportService importService;
+
+    @Test
+    void importCsv_ReturnsAcceptedWithJobLocation() throws Exception {
+        // Given
+        ImportJob job = new ImportJob(ImportJob.Format.CSV);
+        when(importService.submit(eq(ImportJob.Format.CSV), eq(StandardCharsets.UTF_8), any(InputStream.class))).thenReturn(job);
+
+        // When & Then
+        mockMvc.perform(post("/change-requests/imports")
+                .contentType("text/csv")
+                .content("title,description,requestedBy\nparallel os upgrade,all 47 servers,Capital.UwU\n"))
+                .andExpect(status().isAccepted())
+                .andExpect(header().string("Location", containsString("/change-requests/imports/" + job.getId())))
+                .andExpect(jsonPath("$.status").value("QUEUED"))
+                .andExpect(jsonPath("$.format").value("CSV"))
+                .andExpect(jsonPath("$._links.self.href").exists());
+
+        verify(importService).submit(eq(ImportJob.Format.CSV), eq(StandardCharsets.UTF_8), any(InputStream.class));
+    }
+
+    @Test
+    void importNdjson_ReturnsAccepted() throws Exception {
+        // Given
+        ImportJob job = new ImportJob(ImportJob.Format.NDJSON);
+        when(importService.submit(eq(ImportJob.Format.NDJSON), any(Charset.class), any(InputStream.class))).thenReturn(job);
+
+        // When & Then
+        mockMvc.perform(post("/change-requests/imports")
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .content("{\"title\":\"New feature\",\"requestedBy\":\"jane.doe\"}\n"))
+                .andExpect(status().isAccepted())
+                .andExpect(jsonPath("$.format").value("NDJSON"));
+
+        verify(importService).submit(eq(ImportJob.Format.NDJSON), any(Charset.class), any(InputStream.class));
+    }
+
+    @Test
+    void importCsv_PassesDeclaredCharset() throws Exception {
+        // Given
+        Charset windows1252 = Charset.forName("windows-1252");
+        ImportJob job = new ImportJob(ImportJob.Format.CSV);
+        when(importService.submit(eq(ImportJob.Format.CSV), eq(windows1252), any(InputStream.class))).thenReturn(job);
+
+        // When & Then
+        mockMvc.perform(post("/change-requests/imports")
+                .contentType("text/csv; charset=windows-1252")
+                .content("title,description,requestedBy\n".getBytes(windows1252)))
+                .andExpect(status().isAccepted());
+
+        verify(importService).submit(eq(ImportJob.Format.CSV), eq(windows1252), any(InputStream.class));
+    }
+
+    @Test
+    void getImportJobs_ListsRecentJobs() throws Exception {
+        // Given
+        ImportJob job = new ImportJob(ImportJob.Format.CSV);
+        when(importService.findRecentJobs()).thenReturn(List.of(job));
+
+        // When & Then
+        mockMvc.perform(get("/change-requests/imports"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$._embedded.importJobList[0].id").value(job.getId()))
+                .andExpect(jsonPath("$._links.self.href").value(containsString("/change-requests/imports")));
+
+        verify(importService).findRecentJobs();
+    }
+
+    @Test
+    void getImportJobs_OffersUploadTemplates() throws Exception {
+        // Given
+        when(importService.findRecentJobs()).thenReturn(List.of());
+
+        // When & Then
+        mockMvc.perform(get("/change-requests/imports")
+                .accept(MediaTypes.HAL_FORMS_JSON))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$._templates.default.method").value("POST"))
+                .andExpect(jsonPath("$._templates.default.contentType").value("text/csv"))
+                .andExpect(jsonPath("$._templates.importNdjson.contentType").value("application/x-ndjson"));
+    }
+
+    @Test
+    void importUnsupportedMediaType_Returns415() throws Exception {
+        mockMvc.perform(post("/change-requests/imports")
+                .contentType(MediaType.APPLICATION_XML)
+                .content("<changeRequests/>"))
+                .andExpect(status().isUnsupportedMediaType());
+
+        verifyNoInteractions(importService);
+    }
+
+    @Test
+    void getImportJob_WhenExists_ReturnsProgress() throws Exception {
+        // Given
+        ImportJob job = new ImportJob(ImportJob.Format.CSV);
+        job.start();
+        job.rowProcessed();
+        job.rowFailed(1, List.of("Title is required"), 10);
+        when(importService.findJob(job.getId())).thenReturn(Optional.of(job));
+
+        // When & Then
+        mockMvc.perform(get("/change-requests/imports/" + job.getId()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.status").value("RUNNING"))
+                .andExpect(jsonPath("$.rowsProcessed").value(1))
+                .andExpect(jsonPath("$.rowsFailed").value(1))
+                .andExpect(jsonPath("$.errors[0].row").value(1))
+                .andExpect(jsonPath("$.errors[0].messages[0]").value("Title is required"))
+                .andExpect(jsonPath("$._links.all-change-requests.href").exists());
+
+        verify(importService).findJob(job.getId());
+    }
+
+    @Test
+    void getImportJob_WhenNotExists_Returns404() throws Exception {
+        // Given
+        when(importService.findJob("missing")).thenReturn(Optional.empty());
+
+        // When & Then
+        mockMvc.perform(get("/change-requests/imports/missing"))
+                .andExpect(status().isNotFound());
+
+        verify(importService).findJob("missing");
+    }
+}
@@ -0,0 +1,201 @@
+package com.hateskulls.hate.integration;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.hateskulls.hate.model.ChangeRequest;
+import com.hateskulls.hate.model.ChangeRequest.Status;
+import com.hateskulls.hate.repository.ChangeRequestRepository;
+import com.hateskulls.hate.service.ChangeRequestQueryCache;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Sort;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.nio.charset.Charset;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+// Not @Transactional: imports commit from a background thread
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@TestPropertySource(properties = {
+    "hate.import.batch-size=2", // Force several batches per import
+    "hate.import.max-upload-bytes=4096",
+    "spring.datasource.url=jdbc:h2:mem:importtest" // Own database, this context has different properties
+})
+public class ChangeRequestImportIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ChangeRequestRepository repository;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private ChangeRequestQueryCache queryCache;
+
+    @BeforeEach
+    void setUp() {
+        repository.deleteAll();
+    }
+
+    @AfterEach
+    void tearDown() {
+        repository.deleteAll();
+    }
+
+    @Test
+    void importCsv_InsertsValidRowsAndReportsInvalidOnes() throws Exception {
+        String csv = """
+            Title,Description,Requested By,Status
+            parallel os upgrade,"Upgrade all 47 servers, simultaneously",Capital.UwU,APPROVED
+            ab,too short,dev1,
+            "Quoted ""title""","spans
+            two lines",dev2,
+            Rotate certificates,,dev3,SOMEDAY
+            Patch kernel,,dev4,in_progress
+            """;
+        long invalidationsBefore = queryCache.getStats().invalidations();
+
+        String location = mockMvc.perform(post("/change-requests/imports")
+                .contentType("text/csv")
+                .content(csv))
+                .andExpect(status().isAccepted())
+                .andExpect(jsonPath("$._links.self.href").exists())
+                .andReturn().getResponse().getHeader("Location");
+
+        JsonNode job = awaitCompletion(location);
+        assertEquals("COMPLETED", job.get("status").asText());
+        assertEquals(5, job.get("rowsProcessed").asLong());
+        assertEquals(3, job.get("rowsImported").asLong());
+        assertEquals(2, job.get("rowsFailed").asLong());
+        // Rows are file line numbers: header is line 1 and the quoted record spans lines 4-5
+        assertEquals(3, job.get("errors").get(0).get("row").asLong());
+        assertEquals("Title must be between 3 and 100 characters", job.get("errors").get(0).get("messages").get(0).asText());
+        assertEquals(6, job.get("errors").get(1).get("row").asLong());
+
+        // 3 valid rows with a batch size of 2: one batch mid-stream, one at the end, each invalidating the query cache
+        assertEquals(invalidationsBefore + 2, queryCache.getStats().invalidations());
+
+        List<ChangeRequest> imported = repository.findAll(Sort.by("id"));
+        assertEquals(3, imported.size());
+        assertEquals("Upgrade all 47 servers, simultaneously", imported.get(0).getDescription());
+        assertEquals(Status.APPROVED, imported.get(0).getStatus());
+        assertEquals("Quoted \"title\"", imported.get(1).getTitle());
+        assertEquals("spans\ntwo lines", imported.get(1).getDescription());
+        assertEquals(Status.PENDING, imported.get(1).getStatus());
+        assertEquals(Status.IN_PROGRESS, imported.get(2).getStatus());
+    }
+
+    @Test
+    void importNdjson_InsertsValidRowsAndReportsInvalidOnes() throws Exception {
+        String ndjson = """
+            {"title":"New feature","description":"Add dark mode","requestedBy":"jane.doe"}
+            {"title":"No requester"}
+            not json
+            null
+
+            {"id":999,"title":"Fix bug","requestedBy":"john.doe","status":"COMPLETED"}
+            """;
+
+        String location = mockMvc.perform(post("/change-requests/imports")
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .content(ndjson))
+                .andExpect(status().isAccepted())
+                .andReturn().getResponse().getHeader("Location");
+
+        JsonNode job = awaitCompletion(location);
+        assertEquals("COMPLETED", job.get("status").asText());
+        assertEquals(5, job.get("rowsProcessed").asLong());
+        assertEquals(2, job.get("rowsImported").asLong());
+        assertEquals(3, job.get("rowsFailed").asLong());
+        assertEquals(2, job.get("errors").get(0).get("row").asLong());
+        assertEquals(3, job.get("errors").get(1).get("row").asLong());
+        assertEquals(4, job.get("errors").get(2).get("row").asLong());
+        assertEquals("Expected a JSON object", job.get("errors").get(2).get("messages").get(0).asText());
+
+        assertEquals(2, repository.count());
+        assertEquals(1, repository.countByStatus(Status.COMPLETED));
+        ChangeRequest fixBug = repository.findAll().stream()
+                .filter(changeRequest -> changeRequest.getTitle().equals("Fix bug"))
+                .findFirst().orElseThrow();
+        assertNotEquals(999L, fixBug.getId());
+    }
+
+    @Test
+    void importCsv_HonoursDeclaredCharset() throws Exception {
+        byte[] csv = "title,description,requestedBy\nCaf\u00e9 menu update,R\u00e9sum\u00e9 export,dev1\n"
+            .getBytes(Charset.forName("windows-1252"));
+
+        String location = mockMvc.perform(post("/change-requests/imports")
+                .contentType("text/csv; charset=windows-1252")
+                .content(csv))
+                .andExpect(status().isAccepted())
+                .andReturn().getResponse().getHeader("Location");
+
+        JsonNode job = awaitCompletion(location);
+        assertEquals("COMPLETED", job.get("status").asText());
+        assertEquals("Caf\u00e9 menu update", repository.findAll().get(0).getTitle());
+    }
+
+    @Test
+    void importCsv_UndecodableBytes_FailsBeforeAnyBatchCommits() throws Exception {
+        // windows-1252 bytes sent as (default) UTF-8; the bad byte is on line 4, after a full batch of valid rows
+        byte[] csv = ("title,description,requestedBy\n"
+            + "Request one,first,dev1\n"
+            + "Request two,second,dev2\n"
+            + "Caf\u00e9 menu update,third,dev3\n").getBytes(Charset.forName("windows-1252"));
+
+        String location = mockMvc.perform(post("/change-requests/imports")
+                .contentType("text/csv")
+                .content(csv))
+                .andExpect(status().isAccepted())
+                .andReturn().getResponse().getHeader("Location");
+
+        JsonNode job = awaitCompletion(location);
+        assertEquals("FAILED", job.get("status").asText());
+        assertEquals("Upload is not valid UTF-8: undecodable bytes on line 4", job.get("failureReason").asText());
+        assertEquals(0, job.get("rowsImported").asLong());
+        assertEquals(0, repository.count());
+    }
+
+    @Test
+    void importLargerThanLimit_Returns413() throws Exception {
+        String csv = "title,description,requestedBy\n" + "parallel os upgrade,padding,Capital.UwU\n".repeat(200);
+
+        mockMvc.perform(post("/change-requests/imports")
+                .contentType("text/csv")
+                .content(csv))
+                .andExpect(status().isPayloadTooLarge());
+
+        assertEquals(0, repository.count());
+    }
+
+    private JsonNode awaitCompletion(String location) throws Exception {
+        for (int attempt = 0; attempt < 100; attempt++) {
+            String body = mockMvc.perform(get(location))
+                    .andExpect(status().isOk())
+                    .andReturn().getResponse().getContentAsString();
+            JsonNode job = objectMapper.readTree(body);
+            if (job.get("finished").asBoolean()) {
+                return job;
+            }
+            Thread.sleep(50);
+        }
+        return fail("Import did not finish in time");
+    }
+}
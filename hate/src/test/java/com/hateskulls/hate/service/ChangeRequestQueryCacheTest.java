@@ -0,0 +1,183 @@
+package com.hateskulls.hate.service;
+
+import com.hateskulls.hate.model.ChangeRequest;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.hateoas.EntityModel;
+import org.springframework.hateoas.PagedModel;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ChangeRequestQueryCacheTest {
+
+    private static final ChangeRequestQueryCache.Key KEY =
+        ChangeRequestQueryCache.Key.of("http://localhost/change-requests", 0, 10, "id", "desc", ChangeRequest.Status.PENDING);
+
+    private final AtomicInteger loads = new AtomicInteger();
+
+    private final Supplier<PagedModel<EntityModel<ChangeRequest>>> loader = () -> {
+        loads.incrementAndGet();
+        return PagedModel.empty();
+    };
+
+    private final ExecutorService executor = Executors.newFixedThreadPool(2);
+
+    private final CountDownLatch loading = new CountDownLatch(1);
+    private final CountDownLatch release = new CountDownLatch(1);
+
+    // Signals that it started, then blocks until the test releases it
+    private final Supplier<PagedModel<EntityModel<ChangeRequest>>> slowLoader = () -> {
+        loading.countDown();
+        try {
+            release.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        return loader.get();
+    };
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        executor.shutdownNow();
+    }
+
+    @Test
+    void concurrentIdenticalQueries_ShareOneComputation() throws Exception {
+        // Given
+        ChangeRequestQueryCache cache = new ChangeRequestQueryCache(0, 100);
+
+        // When
+        CompletableFuture<PagedModel<EntityModel<ChangeRequest>>> first = startSlowLoad(cache);
+        CompletableFuture<PagedModel<EntityModel<ChangeRequest>>> second =
+            CompletableFuture.supplyAsync(() -> cache.get(KEY, slowLoader), executor);
+        awaitCoalesced(cache);
+        release.countDown();
+
+        // Then
+        assertSame(first.get(5, TimeUnit.SECONDS), second.get(5, TimeUnit.SECONDS));
+        assertEquals(1, loads.get());
+        assertEquals(1, cache.getStats().misses());
+        assertEquals(1, cache.getStats().coalesced());
+    }
+
+    @Test
+    void invalidateDuringLoad_ResultIsNotCached() throws Exception {
+        // Given
+        ChangeRequestQueryCache cache = new ChangeRequestQueryCache(60_000, 100);
+        CompletableFuture<PagedModel<EntityModel<ChangeRequest>>> stale = startSlowLoad(cache);
+
+        // When - a write lands while the query is still running
+        cache.invalidate();
+        release.countDown();
+        stale.get(5, TimeUnit.SECONDS);
+
+        // Then
+        assertEquals(0, cache.getStats().cachedEntries());
+        cache.get(KEY, loader);
+        assertEquals(2, loads.get());
+        assertEquals(0, cache.getStats().hits());
+    }
+
+    @Test
+    void invalidateDuringLoad_LaterCallerStartsFreshLoad() throws Exception {
+        // Given
+        ChangeRequestQueryCache cache = new ChangeRequestQueryCache(0, 100);
+        CompletableFuture<PagedModel<EntityModel<ChangeRequest>>> stale = startSlowLoad(cache);
+
+        // When - a caller arriving after the write must not join the pre-write computation
+        cache.invalidate();
+        cache.get(KEY, loader);
+
+        // Then
+        assertEquals(1, loads.get());
+        assertEquals(0, cache.getStats().coalesced());
+        assertEquals(2, cache.getStats().misses());
+        release.countDown();
+        stale.get(5, TimeUnit.SECONDS);
+        assertEquals(2, loads.get());
+    }
+
+    @Test
+    void withoutTtl_SequentialQueriesAreNotCached() {
+        ChangeRequestQueryCache cache = new ChangeRequestQueryCache(0, 100);
+
+        cache.get(KEY, loader);
+        cache.get(KEY, loader);
+
+        assertEquals(2, loads.get());
+        assertEquals(0, cache.getStats().hits());
+        assertEquals(0, cache.getStats().cachedEntries());
+    }
+
+    @Test
+    void withTtl_RepeatedQueryIsServedFromCache() {
+        ChangeRequestQueryCache cache = new ChangeRequestQueryCache(60_000, 100);
+
+        PagedModel<EntityModel<ChangeRequest>> first = cache.get(KEY, loader);
+        PagedModel<EntityModel<ChangeRequest>> second = cache.get(KEY, loader);
+
+        assertSame(first, second);
+        assertEquals(1, loads.get());
+        assertEquals(1, cache.getStats().hits());
+    }
+
+    @Test
+    void invalidate_DropsCachedResults() {
+        ChangeRequestQueryCache cache = new ChangeRequestQueryCache(60_000, 100);
+
+        cache.get(KEY, loader);
+        cache.invalidate();
+        cache.get(KEY, loader);
+
+        assertEquals(2, loads.get());
+        assertEquals(0, cache.getStats().hits());
+        assertEquals(1, cache.getStats().invalidations());
+    }
+
+    @Test
+    void failedComputation_IsNotCached() {
+        ChangeRequestQueryCache cache = new ChangeRequestQueryCache(60_000, 100);
+
+        assertThrows(IllegalStateException.class, () -> cache.get(KEY, () -> {
+            throw new IllegalStateException("query failed");
+        }));
+        cache.get(KEY, loader);
+
+        assertEquals(1, loads.get());
+        assertEquals(1, cache.getStats().cachedEntries());
+    }
+
+    @Test
+    void key_NormalizesSortDirection() {
+        assertEquals(KEY, ChangeRequestQueryCache.Key.of("http://localhost/change-requests", 0, 10, "id", "DESC", ChangeRequest.Status.PENDING));
+        assertEquals(
+            ChangeRequestQueryCache.Key.of("http://localhost/change-requests", 0, 10, "id", "asc", null),
+            ChangeRequestQueryCache.Key.of("http://localhost/change-requests", 0, 10, "id", "anything", null));
+    }
+
+    private CompletableFuture<PagedModel<EntityModel<ChangeRequest>>> startSlowLoad(ChangeRequestQueryCache cache) throws InterruptedException {
+        CompletableFuture<PagedModel<EntityModel<ChangeRequest>>> load =
+            CompletableFuture.supplyAsync(() -> cache.get(KEY, slowLoader), executor);
+        assertTrue(loading.await(5, TimeUnit.SECONDS));
+        return load;
+    }
+
+    private void awaitCoalesced(ChangeRequestQueryCache cache) throws InterruptedException {
+        for (int attempt = 0; attempt < 100; attempt++) {
+            if (cache.getStats().coalesced() > 0) {
+                return;
+            }
+            Thread.sleep(50);
+        }
+        fail("Second caller did not join the in-flight computation in time");
+    }
+}